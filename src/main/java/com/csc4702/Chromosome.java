@@ -1,5 +1,7 @@
 package com.csc4702;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 public class Chromosome {
     // 1. Genes (Joint Angles)
     private double q1;
@@ -17,8 +19,8 @@ public class Chromosome {
     // Constructor 1: Random Initialization
     public Chromosome() {
         // Initialize q1 and q2 randomly within their allowed range
-        this.q1 = MIN_ANGLE_Q1 + Math.random() * (MAX_ANGLE_Q1 - MIN_ANGLE_Q1);
-        this.q2 = MIN_ANGLE_Q2 + Math.random() * (MAX_ANGLE_Q2 - MIN_ANGLE_Q2);
+        this.q1 = MIN_ANGLE_Q1 + ThreadLocalRandom.current().nextDouble() * (MAX_ANGLE_Q1 - MIN_ANGLE_Q1);
+        this.q2 = MIN_ANGLE_Q2 + ThreadLocalRandom.current().nextDouble() * (MAX_ANGLE_Q2 - MIN_ANGLE_Q2);
     }
     
     // Constructor 2: Used for crossover/mutation
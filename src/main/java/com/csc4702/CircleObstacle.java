@@ -0,0 +1,45 @@
+package com.csc4702;
+
+// Circular obstacle defined by a centre and radius
+
+public class CircleObstacle implements Obstacle {
+    private final double cx;
+    private final double cy;
+    private final double radius;
+
+    public CircleObstacle(double cx, double cy, double radius) {
+        if (!Double.isFinite(cx) || !Double.isFinite(cy)) {
+            throw new IllegalArgumentException("Centre must be finite");
+        }
+        if (!(radius > 0) || !Double.isFinite(radius)) {
+            throw new IllegalArgumentException("Radius must be positive and finite");
+        }
+        this.cx = cx;
+        this.cy = cy;
+        this.radius = radius;
+    }
+
+    public double getCenterX() { return cx; }
+    public double getCenterY() { return cy; }
+    public double getRadius() { return radius; }
+
+    @Override
+    public boolean intersectsSegment(double x1, double y1, double x2, double y2) {
+        // 1. Project the centre onto the segment, clamped to the endpoints
+        double dx = x2 - x1;
+        double dy = y2 - y1;
+        double lenSq = dx * dx + dy * dy;
+        double t = lenSq > 0 ? ((cx - x1) * dx + (cy - y1) * dy) / lenSq : 0.0;
+        t = Math.max(0.0, Math.min(1.0, t));
+
+        // 2. Compare squared distance from the closest point to the radius
+        double px = x1 + t * dx - cx;
+        double py = y1 + t * dy - cy;
+        return px * px + py * py <= radius * radius;
+    }
+
+    @Override public double getMinX() { return cx - radius; }
+    @Override public double getMinY() { return cy - radius; }
+    @Override public double getMaxX() { return cx + radius; }
+    @Override public double getMaxY() { return cy + radius; }
+}
@@ -3,10 +3,14 @@ package com.csc4702;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class GeneticAlgorithm {
     // Small constant to avoid division by zero in fitness calculation
     public static final double EPSILON = 1e-8;
+
+    // Extra margin on top of the worst-case clear error for colliding poses
+    public static final double COLLISION_MARGIN = 1.0;
     
     // 1. GA Parameters
     private static final int POPULATION_SIZE = 250;
@@ -19,11 +23,24 @@ public class GeneticAlgorithm {
     private final RobotArm2D robotArm; 
     private final double targetX;
     private final double targetY;
+    private final ObstacleMap obstacles;
+
+    // Added to the error of any colliding pose. It exceeds the largest error a
+    // clear pose can have (reach + distance from base to target), so every
+    // collision-free pose ranks above every colliding one
+    private final double collisionPenalty;
     
     public GeneticAlgorithm(RobotArm2D robotArm, double targetX, double targetY) {
+        this(robotArm, targetX, targetY, null);
+    }
+
+    // Obstacle-aware GA: poses that collide with an obstacle are penalized
+    public GeneticAlgorithm(RobotArm2D robotArm, double targetX, double targetY, ObstacleMap obstacles) {
         this.robotArm = robotArm;
         this.targetX = targetX;
         this.targetY = targetY;
+        this.obstacles = obstacles;
+        this.collisionPenalty = robotArm.getReach() + Math.hypot(targetX, targetY) + COLLISION_MARGIN;
         this.population = new ArrayList<>();
     }
     
@@ -79,7 +96,7 @@ public class GeneticAlgorithm {
 
         for (int i = 0; i < tournamentSize; i++) {
             // Pick a random index
-            int randomIndex = (int) (Math.random() * population.size());
+            int randomIndex = (int) (ThreadLocalRandom.current().nextDouble() * population.size());
             Chromosome candidate = population.get(randomIndex);
 
             // 2. Determine if this candidate is the best so far
@@ -94,16 +111,16 @@ public class GeneticAlgorithm {
     // Crossover (Uniform Crossover)
     private Chromosome crossover(Chromosome p1, Chromosome p2) {
         // Check Crossover Rate (e.g. 90% chance to mix, 10% chance to just clone p1)
-        if (Math.random() > CROSSOVER_RATE) {
+        if (ThreadLocalRandom.current().nextDouble() > CROSSOVER_RATE) {
             return new Chromosome(p1.getQ1(), p1.getQ2());
         }
 
         // 1. Mix Genes
         // 50% chance to get q1 from p1, otherwise from p2
-        double childQ1 = (Math.random() < 0.5) ? p1.getQ1() : p2.getQ1();
+        double childQ1 = (ThreadLocalRandom.current().nextDouble() < 0.5) ? p1.getQ1() : p2.getQ1();
         
         // 50% chance to get q2 from p1, otherwise from p2
-        double childQ2 = (Math.random() < 0.5) ? p1.getQ2() : p2.getQ2();
+        double childQ2 = (ThreadLocalRandom.current().nextDouble() < 0.5) ? p1.getQ2() : p2.getQ2();
 
         // 2. Return new Child
         return new Chromosome(childQ1, childQ2);
@@ -112,15 +129,15 @@ public class GeneticAlgorithm {
     // Mutation
     private void mutate(Chromosome c) {
         // 1. Mutate q1?
-        if (Math.random() < MUTATION_RATE) {
+        if (ThreadLocalRandom.current().nextDouble() < MUTATION_RATE) {
             // Add a small random value between -0.1 and 0.1 radians
-            double mutationAmount = (Math.random() * 0.2) - 0.1;
+            double mutationAmount = (ThreadLocalRandom.current().nextDouble() * 0.2) - 0.1;
             c.setQ1(c.getQ1() + mutationAmount);
         }
 
         // 2. Mutate q2?
-        if (Math.random() < MUTATION_RATE) {
-            double mutationAmount = (Math.random() * 0.2) - 0.1;
+        if (ThreadLocalRandom.current().nextDouble() < MUTATION_RATE) {
+            double mutationAmount = (ThreadLocalRandom.current().nextDouble() * 0.2) - 0.1;
             c.setQ2(c.getQ2() + mutationAmount);
         }
 
@@ -131,19 +148,37 @@ public class GeneticAlgorithm {
     // Fitness Calculation
     public void calculateFitness() {
         for (Chromosome c : population) {
-            double[] endEffectorPos = robotArm.getEndEffectorPosition(c.getQ1(), c.getQ2());
-            double xE = endEffectorPos[0];
-            double yE = endEffectorPos[1];
+            c.setFitness(computeFitness(c));
+        }
+    }
 
-            // Raw fitness function: Euclidean distance to target
-            double error = Math.sqrt(Math.pow(targetX - xE, 2) + Math.pow(targetY - yE, 2));
+    // Fitness of a single chromosome (higher is better)
+    double computeFitness(Chromosome c) {
+        // Raw fitness function: Euclidean distance to target
+        double error = getPositionError(c);
 
-            // Fitness function: higher is better, avoid division by zero
-            double fitness = 1.0 / (error + EPSILON);
-            c.setFitness(fitness);
+        // Collision penalty: either link passing through an obstacle
+        if (isColliding(c)) {
+            error += collisionPenalty;
         }
+
+        // Fitness function: higher is better, avoid division by zero
+        return 1.0 / (error + EPSILON);
     }
     
+    // Euclidean distance from the chromosome's end effector to the target (no penalty)
+    public double getPositionError(Chromosome c) {
+        double[] endEffectorPos = robotArm.getEndEffectorPosition(c.getQ1(), c.getQ2());
+        double xE = endEffectorPos[0];
+        double yE = endEffectorPos[1];
+        return Math.sqrt(Math.pow(targetX - xE, 2) + Math.pow(targetY - yE, 2));
+    }
+
+    // True if either link of the chromosome's pose touches an obstacle
+    public boolean isColliding(Chromosome c) {
+        return obstacles != null && obstacles.armCollides(robotArm, c.getQ1(), c.getQ2());
+    }
+
     // Public method to get the current best chromosome
     public Chromosome getBestChromosome() {
         // Ensure population is sorted (or sort it)
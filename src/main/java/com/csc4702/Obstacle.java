@@ -0,0 +1,18 @@
+package com.csc4702;
+
+// A static 2D obstacle in the robot's workspace
+
+public interface Obstacle {
+
+    /**
+     * Returns true if the line segment (x1, y1) -> (x2, y2) touches the obstacle.
+     * Used to test each arm link against the obstacle.
+     */
+    boolean intersectsSegment(double x1, double y1, double x2, double y2);
+
+    // --- Axis-aligned bounding box (used for the spatial grid and quick rejects) ---
+    double getMinX();
+    double getMinY();
+    double getMaxX();
+    double getMaxY();
+}
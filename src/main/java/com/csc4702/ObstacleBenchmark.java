@@ -0,0 +1,80 @@
+package com.csc4702;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Measures fitness-evaluation throughput as the number of obstacles grows
+
+public class ObstacleBenchmark {
+
+    // Benchmark Parameters
+    private static final int[] OBSTACLE_COUNTS = {0, 10, 100, 1000, 10000};
+    private static final int WARMUP_ROUNDS = 200;
+    private static final long MEASURE_NANOS = 1_000_000_000L;
+    private static final int POPULATION_SIZE = 250;
+
+    // Workspace of the default arm (a1 = 10, a2 = 8)
+    private static final double REACH = 18.0;
+
+    // Builds a reproducible set of small circles and triangles spread over the workspace
+    private static List<Obstacle> randomObstacles(int count, long seed) {
+        Random rnd = new Random(seed);
+        List<Obstacle> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            double x = -REACH + rnd.nextDouble() * 2 * REACH;
+            double y = -REACH + rnd.nextDouble() * 2 * REACH;
+            double size = 0.05 + rnd.nextDouble() * 0.25;
+            if (i % 2 == 0) {
+                list.add(new CircleObstacle(x, y, size));
+            } else {
+                list.add(new PolygonObstacle(
+                        new double[]{x - size, x + size, x},
+                        new double[]{y - size, y - size, y + size}));
+            }
+        }
+        return list;
+    }
+
+    // Returns fitness evaluations (chromosomes) per second
+    private static double measure(RobotArm2D robotArm, ObstacleMap obstacles) {
+        GeneticAlgorithm ga = new GeneticAlgorithm(robotArm, 13.0, 5.0, obstacles);
+        ga.initializePopulation();
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            ga.calculateFitness();
+        }
+
+        long rounds = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            ga.calculateFitness();
+            rounds++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MEASURE_NANOS);
+
+        return rounds * POPULATION_SIZE / (elapsed / 1e9);
+    }
+
+    public static void main(String[] args) {
+        RobotArm2D robotArm = new RobotArm2D(10.0, 8.0);
+
+        System.out.println("\n--- Fitness throughput vs. obstacle count (chromosomes/s)");
+        System.out.printf("%10s %16s %16s %12s\n", "Obstacles", "Uniform grid", "Linear scan", "Grid size");
+
+        for (int count : OBSTACLE_COUNTS) {
+            List<Obstacle> list = randomObstacles(count, 4702L + count);
+
+            // Grid sized to the obstacles vs. a single cell (every obstacle tested)
+            ObstacleMap grid = new ObstacleMap(list);
+            ObstacleMap linear = new ObstacleMap(list, 4 * REACH);
+
+            double gridRate = measure(robotArm, grid);
+            double linearRate = measure(robotArm, linear);
+
+            System.out.printf("%10d %16.0f %16.0f %12s\n", count, gridRate, linearRate,
+                              grid.getGridCols() + "x" + grid.getGridRows());
+        }
+    }
+}
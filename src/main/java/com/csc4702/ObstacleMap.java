@@ -0,0 +1,206 @@
+package com.csc4702;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Set of static obstacles indexed by a uniform grid for fast segment collision queries
+
+public class ObstacleMap {
+    // Upper bound on grid cells per axis (keeps memory bounded for tiny obstacles)
+    private static final int MAX_CELLS_PER_AXIS = 256;
+
+    private static final int[] EMPTY_CELL = new int[0];
+
+    // 1. Obstacles
+    private final List<Obstacle> obstacles;
+
+    // 2. Grid Geometry (covers the union of all obstacle bounding boxes)
+    private final double gridMinX;
+    private final double gridMinY;
+    private final double gridMaxX;
+    private final double gridMaxY;
+    private final double cellSize;
+    private final int cols;
+    private final int rows;
+
+    // 3. Per-cell obstacle indices (row-major)
+    private final int[][] cells;
+
+    // Picks a cell size from the obstacle sizes and density
+    public ObstacleMap(List<Obstacle> obstacles) {
+        this(obstacles, defaultCellSize(obstacles));
+    }
+
+    public ObstacleMap(List<Obstacle> obstacles, double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.obstacles = Collections.unmodifiableList(new ArrayList<>(obstacles));
+
+        if (obstacles.isEmpty()) {
+            this.gridMinX = 0; this.gridMinY = 0;
+            this.gridMaxX = 0; this.gridMaxY = 0;
+            this.cellSize = cellSize;
+            this.cols = 0; this.rows = 0;
+            this.cells = new int[0][];
+            return;
+        }
+
+        // 1. Bounds of all obstacles
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (Obstacle o : obstacles) {
+            minX = Math.min(minX, o.getMinX()); maxX = Math.max(maxX, o.getMaxX());
+            minY = Math.min(minY, o.getMinY()); maxY = Math.max(maxY, o.getMaxY());
+        }
+
+        // 2. Grid dimensions (grow the cells if the grid would be too fine)
+        double size = Math.max(cellSize, Math.max(maxX - minX, maxY - minY) / MAX_CELLS_PER_AXIS);
+        this.gridMinX = minX;
+        this.gridMinY = minY;
+        this.cellSize = size;
+        this.cols = Math.max(1, (int) Math.ceil((maxX - minX) / size));
+        this.rows = Math.max(1, (int) Math.ceil((maxY - minY) / size));
+        this.gridMaxX = minX + cols * size;
+        this.gridMaxY = minY + rows * size;
+
+        // 3. Insert each obstacle into every cell its bounding box overlaps
+        int[] counts = new int[cols * rows];
+        for (Obstacle o : obstacles) {
+            forEachCell(o, cell -> counts[cell]++);
+        }
+        this.cells = new int[cols * rows][];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = counts[i] == 0 ? EMPTY_CELL : new int[counts[i]];
+            counts[i] = 0;
+        }
+        for (int idx = 0; idx < obstacles.size(); idx++) {
+            final int obstacleIndex = idx;
+            forEachCell(obstacles.get(idx), cell -> cells[cell][counts[cell]++] = obstacleIndex);
+        }
+    }
+
+    public List<Obstacle> getObstacles() { return obstacles; }
+    public boolean isEmpty() { return obstacles.isEmpty(); }
+    public int getGridCols() { return cols; }
+    public int getGridRows() { return rows; }
+
+    /**
+     * Returns true if the segment (x1, y1) -> (x2, y2) touches any obstacle.
+     * Only the grid cells the segment passes through are visited, so the cost
+     * depends on the local obstacle density rather than the total obstacle count.
+     */
+    public boolean segmentCollides(double x1, double y1, double x2, double y2) {
+        if (obstacles.isEmpty()) return false;
+
+        // 1. Clip the segment to the grid bounds (Liang-Barsky)
+        double dx = x2 - x1;
+        double dy = y2 - y1;
+        double[] t = {0.0, 1.0};
+        if (!clip(-dx, x1 - gridMinX, t) || !clip(dx, gridMaxX - x1, t)
+                || !clip(-dy, y1 - gridMinY, t) || !clip(dy, gridMaxY - y1, t)) {
+            return false;
+        }
+        double sx = x1 + t[0] * dx, sy = y1 + t[0] * dy;
+        double ex = x1 + t[1] * dx, ey = y1 + t[1] * dy;
+
+        // 2. Walk the cells along the clipped segment (Amanatides-Woo traversal)
+        int cx = cellCol(sx), cy = cellRow(sy);
+        int endCx = cellCol(ex), endCy = cellRow(ey);
+        int stepX = Double.compare(dx, 0.0);
+        int stepY = Double.compare(dy, 0.0);
+
+        double tMaxX = stepX != 0 ? (gridMinX + (cx + (stepX > 0 ? 1 : 0)) * cellSize - sx) / dx : Double.MAX_VALUE;
+        double tMaxY = stepY != 0 ? (gridMinY + (cy + (stepY > 0 ? 1 : 0)) * cellSize - sy) / dy : Double.MAX_VALUE;
+        double tDeltaX = stepX != 0 ? cellSize / Math.abs(dx) : Double.MAX_VALUE;
+        double tDeltaY = stepY != 0 ? cellSize / Math.abs(dy) : Double.MAX_VALUE;
+
+        int maxSteps = cols + rows;
+        for (int step = 0; step <= maxSteps; step++) {
+            // 3. Exact test against the obstacles registered in this cell
+            for (int idx : cells[cy * cols + cx]) {
+                if (obstacles.get(idx).intersectsSegment(x1, y1, x2, y2)) {
+                    return true;
+                }
+            }
+
+            if (cx == endCx && cy == endCy) break;
+            if (tMaxX < tMaxY) {
+                cx += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                cy += stepY;
+                tMaxY += tDeltaY;
+            }
+            if (cx < 0 || cx >= cols || cy < 0 || cy >= rows) break;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if either link of the arm touches an obstacle
+     * for the given joint angles (q1, q2).
+     */
+    public boolean armCollides(RobotArm2D robotArm, double q1, double q2) {
+        if (obstacles.isEmpty()) return false;
+        double[] elbow = robotArm.getJoint2Position(q1);
+        double[] end = robotArm.getEndEffectorPosition(q1, q2);
+        return segmentCollides(0.0, 0.0, elbow[0], elbow[1])
+                || segmentCollides(elbow[0], elbow[1], end[0], end[1]);
+    }
+
+    // --- HELPERS ---
+
+    private interface CellVisitor {
+        void visit(int cellIndex);
+    }
+
+    private void forEachCell(Obstacle o, CellVisitor visitor) {
+        int c0 = cellCol(o.getMinX()), c1 = cellCol(o.getMaxX());
+        int r0 = cellRow(o.getMinY()), r1 = cellRow(o.getMaxY());
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                visitor.visit(r * cols + c);
+            }
+        }
+    }
+
+    private int cellCol(double x) {
+        return Math.max(0, Math.min(cols - 1, (int) Math.floor((x - gridMinX) / cellSize)));
+    }
+
+    private int cellRow(double y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor((y - gridMinY) / cellSize)));
+    }
+
+    // One Liang-Barsky clipping step; t = {tEnter, tExit}
+    private static boolean clip(double p, double q, double[] t) {
+        if (p == 0) return q >= 0;
+        double r = q / p;
+        if (p < 0) {
+            if (r > t[1]) return false;
+            if (r > t[0]) t[0] = r;
+        } else {
+            if (r < t[0]) return false;
+            if (r < t[1]) t[1] = r;
+        }
+        return true;
+    }
+
+    // Average obstacle size, but no finer than about one cell per obstacle
+    private static double defaultCellSize(List<Obstacle> obstacles) {
+        if (obstacles.isEmpty()) return 1.0;
+        double total = 0;
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (Obstacle o : obstacles) {
+            total += Math.max(o.getMaxX() - o.getMinX(), o.getMaxY() - o.getMinY());
+            minX = Math.min(minX, o.getMinX()); maxX = Math.max(maxX, o.getMaxX());
+            minY = Math.min(minY, o.getMinY()); maxY = Math.max(maxY, o.getMaxY());
+        }
+        double area = (maxX - minX) * (maxY - minY);
+        double sparseSize = Math.sqrt(area / obstacles.size());
+        return Math.max(1e-6, Math.max(total / obstacles.size(), sparseSize));
+    }
+}
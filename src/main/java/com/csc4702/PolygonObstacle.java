@@ -0,0 +1,106 @@
+package com.csc4702;
+
+// Simple (non self-intersecting) polygon obstacle, convex or concave
+
+public class PolygonObstacle implements Obstacle {
+    private final double[] xs;
+    private final double[] ys;
+
+    // Bounding box (computed once)
+    private final double minX, minY, maxX, maxY;
+
+    public PolygonObstacle(double[] xs, double[] ys) {
+        if (xs.length != ys.length || xs.length < 3) {
+            throw new IllegalArgumentException("Polygon needs at least 3 vertices with matching x/y arrays");
+        }
+        for (int i = 0; i < xs.length; i++) {
+            if (!Double.isFinite(xs[i]) || !Double.isFinite(ys[i])) {
+                throw new IllegalArgumentException("Polygon vertices must be finite");
+            }
+        }
+        this.xs = xs.clone();
+        this.ys = ys.clone();
+
+        double lx = Double.MAX_VALUE, ly = Double.MAX_VALUE;
+        double hx = -Double.MAX_VALUE, hy = -Double.MAX_VALUE;
+        for (int i = 0; i < xs.length; i++) {
+            lx = Math.min(lx, xs[i]); hx = Math.max(hx, xs[i]);
+            ly = Math.min(ly, ys[i]); hy = Math.max(hy, ys[i]);
+        }
+        this.minX = lx; this.minY = ly;
+        this.maxX = hx; this.maxY = hy;
+    }
+
+    public int getVertexCount() { return xs.length; }
+    public double getVertexX(int i) { return xs[i]; }
+    public double getVertexY(int i) { return ys[i]; }
+
+    @Override
+    public boolean intersectsSegment(double x1, double y1, double x2, double y2) {
+        // 1. Quick reject: segment bounding box vs polygon bounding box
+        if (Math.max(x1, x2) < minX || Math.min(x1, x2) > maxX
+                || Math.max(y1, y2) < minY || Math.min(y1, y2) > maxY) {
+            return false;
+        }
+
+        // 2. Segment crosses any edge?
+        int n = xs.length;
+        for (int i = 0, j = n - 1; i < n; j = i++) {
+            if (segmentsIntersect(x1, y1, x2, y2, xs[j], ys[j], xs[i], ys[i])) {
+                return true;
+            }
+        }
+
+        // 3. No crossing: segment is either fully inside or fully outside
+        return containsPoint(x1, y1);
+    }
+
+    // Even-odd ray casting test
+    public boolean containsPoint(double px, double py) {
+        boolean inside = false;
+        int n = xs.length;
+        for (int i = 0, j = n - 1; i < n; j = i++) {
+            if ((ys[i] > py) != (ys[j] > py)
+                    && px < (xs[j] - xs[i]) * (py - ys[i]) / (ys[j] - ys[i]) + xs[i]) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    // Orientation-based test for segments p1-p2 and p3-p4 (touching counts as intersecting)
+    private static boolean segmentsIntersect(double p1x, double p1y, double p2x, double p2y,
+                                             double p3x, double p3y, double p4x, double p4y) {
+        double d1 = cross(p3x, p3y, p4x, p4y, p1x, p1y);
+        double d2 = cross(p3x, p3y, p4x, p4y, p2x, p2y);
+        double d3 = cross(p1x, p1y, p2x, p2y, p3x, p3y);
+        double d4 = cross(p1x, p1y, p2x, p2y, p4x, p4y);
+
+        if (((d1 > 0 && d2 < 0) || (d1 < 0 && d2 > 0))
+                && ((d3 > 0 && d4 < 0) || (d3 < 0 && d4 > 0))) {
+            return true;
+        }
+
+        // Collinear / touching cases
+        return (d1 == 0 && onSegment(p3x, p3y, p4x, p4y, p1x, p1y))
+                || (d2 == 0 && onSegment(p3x, p3y, p4x, p4y, p2x, p2y))
+                || (d3 == 0 && onSegment(p1x, p1y, p2x, p2y, p3x, p3y))
+                || (d4 == 0 && onSegment(p1x, p1y, p2x, p2y, p4x, p4y));
+    }
+
+    // Z component of (b - a) x (c - a)
+    private static double cross(double ax, double ay, double bx, double by, double cx, double cy) {
+        return (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+    }
+
+    // Assumes c is collinear with a-b; checks it lies within the segment's box
+    private static boolean onSegment(double ax, double ay, double bx, double by, double cx, double cy) {
+        return Math.min(ax, bx) <= cx && cx <= Math.max(ax, bx)
+                && Math.min(ay, by) <= cy && cy <= Math.max(ay, by);
+    }
+
+    @Override public double getMinX() { return minX; }
+    @Override public double getMinY() { return minY; }
+    @Override public double getMaxX() { return maxX; }
+    @Override public double getMaxY() { return maxY; }
+}
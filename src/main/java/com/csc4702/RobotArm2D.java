@@ -12,6 +12,11 @@ public class RobotArm2D {
         this.a2 = a2;
     }
 
+    // Maximum distance from the base the end effector can reach
+    public double getReach() {
+        return Math.abs(a1) + Math.abs(a2);
+    }
+
     // --- HELPER: Rotation Matrix (RotZ) ---
     private Matrix3x3 getRotationMatrix(double angleRad) {
         Matrix3x3 mat = new Matrix3x3(true); // Identity
@@ -3,6 +3,7 @@ package com.csc4702;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
@@ -12,18 +13,32 @@ import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 
 public class RobotFXApplication extends Application {
 
+    // Largest sweep grid the GUI will start (cells per side)
+    private static final int MAX_SWEEP_RESOLUTION = 500;
+
     // UI Components
     private Canvas canvas;
     private GraphicsContext gc;
-    private TextField txtA1, txtA2, txtQ1, txtQ2, txtTargetX, txtTargetY;
+    private TextField txtA1, txtA2, txtQ1, txtQ2, txtTargetX, txtTargetY, txtResolution;
     private Label lblStatus; 
     private Label lblFKResult; 
+    private Label lblSweepResult;
+    private TextArea txtObstacles;
+    private ObstacleMap obstacles;
+    private ProgressBar sweepProgress;
 
     // State Variables (Where the robot IS currently)
     private double currentQ1 = 45;
@@ -36,6 +51,10 @@ public class RobotFXApplication extends Application {
     // Animation Logic
     private Timeline timeline;
 
+    // Workspace Sweep (overlay drawn behind the arm)
+    private WorkspaceSweep sweep;
+    private WorkspaceMap workspaceMap;
+
     @Override
     public void start(Stage primaryStage) {
         BorderPane root = new BorderPane();
@@ -96,18 +115,70 @@ public class RobotFXApplication extends Application {
         txtTargetY = new TextField("5");
         gridB.addRow(0, new Label("Target X:"), txtTargetX);
         gridB.addRow(1, new Label("Target Y:"), txtTargetY);
+
+        Label lblObstacles = new Label("Obstacles (one per line): 'circle x y r' or 'poly x1 y1 x2 y2 x3 y3 ...'");
+        lblObstacles.setWrapText(true);
+        txtObstacles = new TextArea("circle 4 -6 1.5\npoly -8 -2 -5 -2 -5 1 -8 1");
+        txtObstacles.setPrefRowCount(4);
+        obstacles = parseObstacles();
+        txtObstacles.textProperty().addListener((obs, oldText, newText) -> {
+            obstacles = parseObstacles();
+            draw(currentQ1, currentQ2);
+        });
         
         Button btnIK = new Button("Solve Angles (Genetic Algo)");
         btnIK.setMaxWidth(Double.MAX_VALUE);
         btnIK.setStyle("-fx-background-color: #e91e63; -fx-text-fill: white; -fx-font-weight: bold;");
         
-        partBBox.getChildren().addAll(lblPartBInstr, gridB, btnIK);
+        partBBox.getChildren().addAll(lblPartBInstr, gridB, lblObstacles, txtObstacles, btnIK);
         
         Tab tabB = new Tab("Part B: AI Solver", partBBox);
         tabB.setClosable(false);
 
+
+        //         TAB 3: Workspace Map (Sweep)
+        VBox partCBox = new VBox(15);
+        partCBox.setPadding(new Insets(15));
+        partCBox.setStyle("-fx-background-color: #f1f8e9;");
+
+        Label lblPartCInstr = new Label("Run the GA over a grid of targets to map which cells are reachable. Green = reached quickly, yellow = slowly, red = not reached, purple = only reachable through an obstacle.");
+        lblPartCInstr.setWrapText(true);
+        lblPartCInstr.setStyle("-fx-font-style: italic; -fx-text-fill: #555;");
+
+        GridPane gridC = new GridPane();
+        gridC.setHgap(10); gridC.setVgap(10);
+        txtResolution = new TextField("30");
+        gridC.addRow(0, new Label("Cells per side:"), txtResolution);
+
+        Button btnSweep = new Button("Sweep Workspace");
+        btnSweep.setMaxWidth(Double.MAX_VALUE);
+        btnSweep.setStyle("-fx-background-color: #43a047; -fx-text-fill: white; -fx-font-weight: bold;");
+
+        Button btnCancelSweep = new Button("Cancel Sweep");
+        btnCancelSweep.setMaxWidth(Double.MAX_VALUE);
+        btnCancelSweep.setStyle("-fx-background-color: #ff9800; -fx-text-fill: white; -fx-font-weight: bold;");
+
+        Button btnExport = new Button("Export Map (CSV / Binary)");
+        btnExport.setMaxWidth(Double.MAX_VALUE);
+
+        Button btnClearMap = new Button("Clear Map");
+        btnClearMap.setMaxWidth(Double.MAX_VALUE);
+
+        sweepProgress = new ProgressBar(0);
+        sweepProgress.setMaxWidth(Double.MAX_VALUE);
+
+        lblSweepResult = new Label("No sweep run yet");
+        lblSweepResult.setWrapText(true);
+        lblSweepResult.setStyle("-fx-font-size: 13px; -fx-font-weight: bold; -fx-text-fill: #1b5e20;");
+
+        partCBox.getChildren().addAll(lblPartCInstr, gridC, btnSweep, btnCancelSweep, sweepProgress,
+                                      new Separator(), lblSweepResult, btnExport, btnClearMap);
+
+        Tab tabC = new Tab("Workspace Map", partCBox);
+        tabC.setClosable(false);
+
         //         Layout Assembly
-        TabPane tabPane = new TabPane(tabA, tabB);
+        TabPane tabPane = new TabPane(tabA, tabB, tabC);
         
         // Status Label 
         lblStatus = new Label("System Ready");
@@ -168,6 +239,21 @@ public class RobotFXApplication extends Application {
         // --- BUTTON LOGIC: AI SOLVE ---
         btnIK.setOnAction(e -> runGeneticAlgorithm());
 
+        // --- BUTTON LOGIC: WORKSPACE SWEEP ---
+        btnSweep.setOnAction(e -> runWorkspaceSweep());
+        btnCancelSweep.setOnAction(e -> {
+            if (sweep != null) sweep.cancel();
+        });
+        btnExport.setOnAction(e -> exportWorkspaceMap(primaryStage));
+        btnClearMap.setOnAction(e -> {
+            if (sweep != null) sweep.cancel();
+            sweep = null;
+            workspaceMap = null;
+            sweepProgress.setProgress(0);
+            lblSweepResult.setText("No sweep run yet");
+            draw(currentQ1, currentQ2);
+        });
+
         Scene scene = new Scene(root, 1150, 600);
         primaryStage.setTitle("2-Link SCARA Robot Control System");
         primaryStage.setScene(scene);
@@ -198,7 +284,7 @@ public class RobotFXApplication extends Application {
         double ty = parse(txtTargetY, 10);
 
         RobotArm2D robot = new RobotArm2D(a1, a2);
-        GeneticAlgorithm ga = new GeneticAlgorithm(robot, tx, ty);
+        GeneticAlgorithm ga = new GeneticAlgorithm(robot, tx, ty, obstacles);
         ga.initializePopulation();
         ga.calculateFitness();
 
@@ -220,6 +306,12 @@ public class RobotFXApplication extends Application {
             }
         }
 
+        if (best != null && ga.isColliding(best)) {
+            // Never drive the arm through a fixture
+            lblStatus.setText("No collision-free pose found - arm not moved");
+            return;
+        }
+
         if (best != null) {
             prevQ1 = currentQ1;
             prevQ2 = currentQ2;
@@ -233,6 +325,83 @@ public class RobotFXApplication extends Application {
         }
     }
 
+    private void runWorkspaceSweep() {
+        if (sweep != null) sweep.cancel();
+
+        double a1 = parse(txtA1, 10);
+        double a2 = parse(txtA2, 8);
+        int requested = (int) parse(txtResolution, 30);
+        int resolution = Math.max(1, Math.min(MAX_SWEEP_RESOLUTION, requested));
+        if (resolution != requested) {
+            txtResolution.setText(String.valueOf(resolution));
+            lblStatus.setText("Cells per side limited to 1.." + MAX_SWEEP_RESOLUTION + ", using " + resolution);
+        }
+        double reach = a1 + a2;
+
+        WorkspaceSweep newSweep = new WorkspaceSweep(new RobotArm2D(a1, a2),
+                -reach, reach, -reach, reach, resolution, resolution);
+        newSweep.setObstacles(obstacles);
+        // Coalesce progress: at most one UI update queued at a time, showing the latest count
+        AtomicBoolean updatePending = new AtomicBoolean(false);
+        newSweep.setProgressListener((done, total) -> {
+            if (!updatePending.compareAndSet(false, true)) return;
+            Platform.runLater(() -> {
+                updatePending.set(false);
+                if (sweep != newSweep) return;
+                int cellsDone = newSweep.getCellsDone();
+                sweepProgress.setProgress((double) cellsDone / total);
+                lblStatus.setText("Sweeping... " + cellsDone + "/" + total + " cells");
+                draw(currentQ1, currentQ2);
+            });
+        });
+
+        sweep = newSweep;
+        workspaceMap = newSweep.getMap();
+        sweepProgress.setProgress(0);
+        lblSweepResult.setText(resolution != requested
+                ? "Sweep running (" + resolution + "x" + resolution + ", clamped)..."
+                : "Sweep running...");
+
+        Thread worker = new Thread(() -> {
+            newSweep.run();
+            Platform.runLater(() -> {
+                if (sweep != newSweep) return;
+                lblStatus.setText(newSweep.isCancelled() ? "Sweep cancelled (partial map kept)" : "Sweep complete");
+                lblSweepResult.setText(String.format("%d/%d cells in %.2f s (%.1f cells/s)",
+                        newSweep.getCellsDone(), newSweep.getMap().getCellCount(),
+                        newSweep.getElapsedSeconds(), newSweep.getCellsPerSecond()));
+                draw(currentQ1, currentQ2);
+            });
+        }, "workspace-sweep");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void exportWorkspaceMap(Stage stage) {
+        if (workspaceMap == null) {
+            lblStatus.setText("Nothing to export - run a sweep first");
+            return;
+        }
+        FileChooser chooser = new FileChooser();
+        chooser.setInitialFileName("workspace_map.csv");
+        chooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("CSV", "*.csv"),
+                new FileChooser.ExtensionFilter("Binary", "*.bin"));
+        File file = chooser.showSaveDialog(stage);
+        if (file == null) return;
+
+        try {
+            if (file.getName().endsWith(".bin")) {
+                workspaceMap.writeBinary(file.getPath());
+            } else {
+                workspaceMap.writeCsv(file.getPath());
+            }
+            lblStatus.setText("Exported map to " + file.getName());
+        } catch (IOException ex) {
+            lblStatus.setText("Export failed: " + ex.getMessage());
+        }
+    }
+
     private void animateArm(double targetQ1, double targetQ2) {
         if (timeline != null) timeline.stop();
 
@@ -279,6 +448,8 @@ public class RobotFXApplication extends Application {
         double x2 = ox + (endPos[0] * scale);
         double y2 = oy - (endPos[1] * scale);  
 
+        drawWorkspaceMap(ox, oy, scale);
+        drawObstacles(ox, oy, scale);
         drawTarget(ox, oy, scale);
 
         gc.setLineWidth(5);
@@ -290,6 +461,59 @@ public class RobotFXApplication extends Application {
         gc.setFill(Color.GREEN); gc.fillOval(x2 - 5, y2 - 5, 10, 10);
     }
 
+    private void drawWorkspaceMap(double ox, double oy, double scale) {
+        if (workspaceMap == null) return;
+
+        WorkspaceMap map = workspaceMap;
+        double w = map.getCellWidth() * scale;
+        double h = map.getCellHeight() * scale;
+        for (int row = 0; row < map.getRows(); row++) {
+            for (int col = 0; col < map.getCols(); col++) {
+                byte state = map.getState(col, row);
+                if (state == WorkspaceMap.NOT_EVALUATED) continue;
+
+                if (state == WorkspaceMap.REACHED) {
+                    // Green (few generations) -> yellow (many generations)
+                    double t = (double) map.getGenerations(col, row) / sweep.getMaxGenerations();
+                    gc.setFill(Color.hsb(120 - 60 * Math.min(1.0, t), 0.8, 0.9, 0.35));
+                } else if (state == WorkspaceMap.COLLIDING) {
+                    gc.setFill(Color.rgb(142, 36, 170, 0.35));
+                } else {
+                    gc.setFill(Color.rgb(229, 57, 53, 0.25));
+                }
+                double sx = ox + (map.getXMin() + col * map.getCellWidth()) * scale;
+                double sy = oy - (map.getYMin() + (row + 1) * map.getCellHeight()) * scale;
+                gc.fillRect(sx, sy, w, h);
+            }
+        }
+    }
+
+    private void drawObstacles(double ox, double oy, double scale) {
+        gc.setFill(Color.rgb(96, 125, 139, 0.6));
+        gc.setStroke(Color.rgb(55, 71, 79));
+        gc.setLineWidth(1.5);
+        for (Obstacle o : obstacles.getObstacles()) {
+            if (o instanceof CircleObstacle) {
+                CircleObstacle c = (CircleObstacle) o;
+                double r = c.getRadius() * scale;
+                double sx = ox + c.getCenterX() * scale;
+                double sy = oy - c.getCenterY() * scale;
+                gc.fillOval(sx - r, sy - r, 2 * r, 2 * r);
+                gc.strokeOval(sx - r, sy - r, 2 * r, 2 * r);
+            } else if (o instanceof PolygonObstacle) {
+                PolygonObstacle p = (PolygonObstacle) o;
+                double[] px = new double[p.getVertexCount()];
+                double[] py = new double[p.getVertexCount()];
+                for (int i = 0; i < px.length; i++) {
+                    px[i] = ox + p.getVertexX(i) * scale;
+                    py[i] = oy - p.getVertexY(i) * scale;
+                }
+                gc.fillPolygon(px, py, px.length);
+                gc.strokePolygon(px, py, px.length);
+            }
+        }
+    }
+
     private void drawTarget(double ox, double oy, double scale) {
         double tx = parse(txtTargetX, 0) * scale;
         double ty = parse(txtTargetY, 0) * scale;
@@ -306,5 +530,31 @@ public class RobotFXApplication extends Application {
         catch (NumberFormatException e) { return defaultVal; }
     }
 
+    // Parses the obstacle text box; malformed lines are skipped
+    private ObstacleMap parseObstacles() {
+        List<Obstacle> obstacles = new ArrayList<>();
+        for (String line : txtObstacles.getText().split("\\R")) {
+            String[] parts = line.trim().split("\\s+");
+            try {
+                if (parts[0].equalsIgnoreCase("circle") && parts.length == 4) {
+                    obstacles.add(new CircleObstacle(Double.parseDouble(parts[1]),
+                            Double.parseDouble(parts[2]), Double.parseDouble(parts[3])));
+                } else if (parts[0].equalsIgnoreCase("poly") && parts.length >= 7 && parts.length % 2 == 1) {
+                    int n = (parts.length - 1) / 2;
+                    double[] xs = new double[n];
+                    double[] ys = new double[n];
+                    for (int i = 0; i < n; i++) {
+                        xs[i] = Double.parseDouble(parts[1 + 2 * i]);
+                        ys[i] = Double.parseDouble(parts[2 + 2 * i]);
+                    }
+                    obstacles.add(new PolygonObstacle(xs, ys));
+                }
+            } catch (IllegalArgumentException e) {
+                // NumberFormatException or invalid shape: ignore this line
+            }
+        }
+        return new ObstacleMap(obstacles);
+    }
+
     public static void main(String[] args) { launch(args); }
 }
\ No newline at end of file
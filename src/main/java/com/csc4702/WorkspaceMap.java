@@ -0,0 +1,160 @@
+package com.csc4702;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Grid of IK results over the workspace, filled in by WorkspaceSweep
+
+public class WorkspaceMap {
+    // Cell states
+    public static final byte NOT_EVALUATED = 0;
+    public static final byte REACHED = 1;
+    public static final byte UNREACHED = 2;
+    public static final byte COLLIDING = 3;  // best pose found touches an obstacle
+
+    // Upper bound on cells per map (keeps the result arrays to a few tens of MB)
+    public static final int MAX_CELLS = 4_000_000;
+
+    // Magic header for the binary format ("WSMP")
+    private static final int BINARY_MAGIC = 0x57534D50;
+
+    // 1. Grid Geometry
+    private final double xMin;
+    private final double xMax;
+    private final double yMin;
+    private final double yMax;
+    private final int cols;
+    private final int rows;
+
+    // 2. Per-cell Results (row-major, one slot per cell)
+    // The state is written last with a volatile store, so a reader that sees a
+    // non-NOT_EVALUATED state also sees that cell's generations and error
+    private final AtomicIntegerArray states;
+    private final int[] generations;
+    private final float[] errors;
+
+    public WorkspaceMap(double xMin, double xMax, double yMin, double yMax, int cols, int rows) {
+        if (cols < 1 || rows < 1) {
+            throw new IllegalArgumentException("Grid must have at least one column and one row");
+        }
+        int cellCount;
+        try {
+            cellCount = Math.multiplyExact(cols, rows);
+        } catch (ArithmeticException e) {
+            cellCount = Integer.MAX_VALUE;
+        }
+        if (cellCount > MAX_CELLS) {
+            throw new IllegalArgumentException("Grid of " + cols + "x" + rows
+                    + " cells exceeds the limit of " + MAX_CELLS + " cells");
+        }
+        this.xMin = xMin;
+        this.xMax = xMax;
+        this.yMin = yMin;
+        this.yMax = yMax;
+        this.cols = cols;
+        this.rows = rows;
+        this.states = new AtomicIntegerArray(cellCount);
+        this.generations = new int[cellCount];
+        this.errors = new float[cellCount];
+        Arrays.fill(errors, Float.NaN);
+    }
+
+    // --- Getters ---
+    public double getXMin() { return xMin; }
+    public double getXMax() { return xMax; }
+    public double getYMin() { return yMin; }
+    public double getYMax() { return yMax; }
+    public int getCols() { return cols; }
+    public int getRows() { return rows; }
+    public int getCellCount() { return cols * rows; }
+
+    public byte getState(int col, int row) { return (byte) states.get(index(col, row)); }
+    public int getGenerations(int col, int row) { return generations[index(col, row)]; }
+    public double getError(int col, int row) { return errors[index(col, row)]; }
+
+    // Width and height of a single cell in workspace units
+    public double getCellWidth() { return (xMax - xMin) / cols; }
+    public double getCellHeight() { return (yMax - yMin) / rows; }
+
+    // Workspace (x, y) at the centre of a cell
+    public double getCellX(int col) { return xMin + (col + 0.5) * getCellWidth(); }
+    public double getCellY(int row) { return yMin + (row + 0.5) * getCellHeight(); }
+
+    /**
+     * Stores the result for one cell.
+     * Each cell is written by exactly one worker; the volatile state write
+     * publishes the generations and error to threads reading the map mid-sweep.
+     */
+    void setResult(int cellIndex, byte state, int gens, double error) {
+        generations[cellIndex] = gens;
+        errors[cellIndex] = (float) error;
+        states.set(cellIndex, state);
+    }
+
+    // Number of cells that have been evaluated so far
+    public int getEvaluatedCount() {
+        int count = 0;
+        for (int i = 0; i < states.length(); i++) {
+            if (states.get(i) != NOT_EVALUATED) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Writes the map as CSV: one line per evaluated cell.
+     * Columns: col, row, x, y, reached, collided, generations, error
+     * (error is the Euclidean distance of the best pose to the cell centre)
+     */
+    public void writeCsv(String path) throws IOException {
+        try (BufferedWriter out = new BufferedWriter(new FileWriter(path))) {
+            out.write("col,row,x,y,reached,collided,generations,error");
+            out.newLine();
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    int i = index(col, row);
+                    int state = states.get(i);
+                    if (state == NOT_EVALUATED) continue;
+                    out.write(String.format(Locale.ROOT, "%d,%d,%.4f,%.4f,%d,%d,%d,%.6f",
+                            col, row, getCellX(col), getCellY(row),
+                            state == REACHED ? 1 : 0, state == COLLIDING ? 1 : 0,
+                            generations[i], errors[i]));
+                    out.newLine();
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the map in a compact binary format:
+     * header (magic, cols, rows, xMin, xMax, yMin, yMax) followed by
+     * one record per cell in row-major order (state byte, generations int, error float).
+     */
+    public void writeBinary(String path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(path)))) {
+            out.writeInt(BINARY_MAGIC);
+            out.writeInt(cols);
+            out.writeInt(rows);
+            out.writeDouble(xMin);
+            out.writeDouble(xMax);
+            out.writeDouble(yMin);
+            out.writeDouble(yMax);
+            for (int i = 0; i < states.length(); i++) {
+                out.writeByte(states.get(i));
+                out.writeInt(generations[i]);
+                out.writeFloat(errors[i]);
+            }
+        }
+    }
+
+    private int index(int col, int row) {
+        return row * cols + col;
+    }
+}
@@ -0,0 +1,211 @@
+package com.csc4702;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Parallel sweep of the IK solver over a grid of workspace targets.
+// Each instance is single-use: create a new sweep for every run.
+
+public class WorkspaceSweep {
+
+    // Callback for progress reporting (called from worker threads)
+    public interface ProgressListener {
+        void onProgress(int cellsDone, int totalCells);
+    }
+
+    // GA Parameters (same defaults as IKOptimizer)
+    private static final int DEFAULT_MAX_GENERATIONS = 300;
+    private static final double DEFAULT_ERROR_TOLERANCE = 0.01;
+
+    // Cells per leaf task; each cell is a full GA run, so keep it small
+    private static final int CELLS_PER_TASK = 2;
+
+    // 1. Configuration
+    private final RobotArm2D robotArm;
+    private final WorkspaceMap map;
+    private int maxGenerations = DEFAULT_MAX_GENERATIONS;
+    private double errorTolerance = DEFAULT_ERROR_TOLERANCE;
+    private ObstacleMap obstacles;
+    private ProgressListener progressListener;
+
+    // 2. Run State
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicInteger cellsDone = new AtomicInteger();
+    private volatile boolean cancelled;
+    private long elapsedNanos;
+
+    public WorkspaceSweep(RobotArm2D robotArm, double xMin, double xMax,
+                          double yMin, double yMax, int cols, int rows) {
+        this.robotArm = robotArm;
+        this.map = new WorkspaceMap(xMin, xMax, yMin, yMax, cols, rows);
+    }
+
+    // --- Configuration Setters ---
+    public void setMaxGenerations(int maxGenerations) { this.maxGenerations = maxGenerations; }
+    public void setErrorTolerance(double errorTolerance) { this.errorTolerance = errorTolerance; }
+    public void setObstacles(ObstacleMap obstacles) { this.obstacles = obstacles; }
+    public void setProgressListener(ProgressListener listener) { this.progressListener = listener; }
+
+    // --- Results ---
+    public WorkspaceMap getMap() { return map; }
+    public int getMaxGenerations() { return maxGenerations; }
+    public boolean isCancelled() { return cancelled; }
+    public int getCellsDone() { return cellsDone.get(); }
+    public double getElapsedSeconds() { return elapsedNanos / 1e9; }
+
+    // Throughput of the last run in cells per second
+    public double getCellsPerSecond() {
+        return elapsedNanos > 0 ? cellsDone.get() / getElapsedSeconds() : 0.0;
+    }
+
+    /**
+     * Requests cancellation. Cells already in progress finish normally;
+     * their results (and all earlier ones) remain in the map.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    // Runs the sweep on the common work-stealing pool
+    public WorkspaceMap run() {
+        return run(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs the sweep on the given pool and blocks until done or cancelled.
+     * A sweep cancelled before this call returns the empty map straight away.
+     * @throws IllegalStateException if this sweep has already been run
+     */
+    public WorkspaceMap run(ForkJoinPool pool) {
+        if (!started.compareAndSet(false, true)) {
+            throw new IllegalStateException("WorkspaceSweep can only be run once");
+        }
+        long start = System.nanoTime();
+        pool.invoke(new SweepTask(0, map.getCellCount()));
+        elapsedNanos = System.nanoTime() - start;
+        return map;
+    }
+
+    // Solves a single cell with the GA and records the result
+    private void evaluateCell(int cellIndex) {
+        int col = cellIndex % map.getCols();
+        int row = cellIndex / map.getCols();
+        double tx = map.getCellX(col);
+        double ty = map.getCellY(row);
+
+        GeneticAlgorithm ga = new GeneticAlgorithm(robotArm, tx, ty, obstacles);
+        ga.initializePopulation();
+        ga.calculateFitness();
+
+        int generation = 1;
+        for (; generation <= maxGenerations; generation++) {
+            Chromosome best = ga.getBestChromosome();
+            double bestError = (1.0 / best.getFitness()) - GeneticAlgorithm.EPSILON;
+            if (bestError < errorTolerance) break;
+            ga.evolvePopulation();
+        }
+
+        // Record the residual distance, not the penalized fitness error
+        Chromosome best = ga.getBestChromosome();
+        double error = ga.getPositionError(best);
+        byte state;
+        if (ga.isColliding(best)) {
+            state = WorkspaceMap.COLLIDING;
+        } else {
+            state = error < errorTolerance ? WorkspaceMap.REACHED : WorkspaceMap.UNREACHED;
+        }
+        map.setResult(cellIndex, state, Math.min(generation, maxGenerations), error);
+
+        int done = cellsDone.incrementAndGet();
+        ProgressListener listener = progressListener;
+        if (listener != null) {
+            listener.onProgress(done, map.getCellCount());
+        }
+    }
+
+    // Splits the cell range in half until it is small enough to solve directly
+    private class SweepTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        SweepTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled) return;
+            if (to - from <= CELLS_PER_TASK) {
+                for (int i = from; i < to && !cancelled; i++) {
+                    evaluateCell(i);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SweepTask(from, mid), new SweepTask(mid, to));
+        }
+    }
+
+    /**
+     * CLI entry point: sweeps the default arm and writes workspace_map.csv / .bin.
+     * Ctrl+C cancels the sweep; the cells finished so far are still written.
+     */
+    public static void main(String[] args) throws IOException {
+        int resolution = args.length > 0 ? Integer.parseInt(args[0]) : 40;
+
+        RobotArm2D robotArm = new RobotArm2D(10.0, 8.0);
+        double reach = 18.0;
+        WorkspaceSweep sweep = new WorkspaceSweep(robotArm, -reach, reach, -reach, reach,
+                                                  resolution, resolution);
+
+        int total = resolution * resolution;
+        int step = Math.max(1, total / 20);
+        sweep.setProgressListener((done, all) -> {
+            if (done % step == 0 || done == all) {
+                System.out.printf("Progress: %d/%d cells (%.0f%%)\n", done, all, 100.0 * done / all);
+            }
+        });
+
+        // On Ctrl+C: cancel, then hold the JVM open until the partial map is written
+        CountDownLatch written = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            sweep.cancel();
+            try {
+                written.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        System.out.println("\n--- Sweeping workspace: " + resolution + "x" + resolution + " cells");
+        try {
+            WorkspaceMap map = sweep.run();
+            if (sweep.isCancelled()) {
+                System.out.println("Sweep cancelled, writing partial map");
+            }
+
+            int reached = 0;
+            for (int row = 0; row < map.getRows(); row++) {
+                for (int col = 0; col < map.getCols(); col++) {
+                    if (map.getState(col, row) == WorkspaceMap.REACHED) reached++;
+                }
+            }
+            System.out.printf("Done: %d cells in %.2f s (%.1f cells/s), %d reached\n",
+                              sweep.getCellsDone(), sweep.getElapsedSeconds(),
+                              sweep.getCellsPerSecond(), reached);
+
+            map.writeCsv("workspace_map.csv");
+            map.writeBinary("workspace_map.bin");
+            System.out.println("Wrote workspace_map.csv and workspace_map.bin");
+        } finally {
+            written.countDown();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.csc4702;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ObstacleMapTest {
+
+    // Reference answer: test every obstacle
+    private static boolean bruteForce(List<Obstacle> obstacles,
+                                      double x1, double y1, double x2, double y2) {
+        for (Obstacle o : obstacles) {
+            if (o.intersectsSegment(x1, y1, x2, y2)) return true;
+        }
+        return false;
+    }
+
+    // Reproducible mix of circles and quadrilaterals inside [-18, 18]^2
+    private static List<Obstacle> randomObstacles(Random rnd, int count, double maxSize) {
+        List<Obstacle> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            double x = -18 + 36 * rnd.nextDouble();
+            double y = -18 + 36 * rnd.nextDouble();
+            double s = 0.05 + maxSize * rnd.nextDouble();
+            if (i % 2 == 0) {
+                list.add(new CircleObstacle(x, y, s));
+            } else {
+                list.add(new PolygonObstacle(new double[]{x - s, x + s, x + s, x},
+                                             new double[]{y - s, y - s, y + s, y + 2 * s}));
+            }
+        }
+        return list;
+    }
+
+    private static void assertMatchesBruteForce(List<Obstacle> obstacles, ObstacleMap map,
+                                                double x1, double y1, double x2, double y2) {
+        assertEquals("segment (" + x1 + ", " + y1 + ") -> (" + x2 + ", " + y2 + ")",
+                     bruteForce(obstacles, x1, y1, x2, y2),
+                     map.segmentCollides(x1, y1, x2, y2));
+    }
+
+    @Test
+    public void randomSegmentsMatchBruteForce() {
+        Random rnd = new Random(4702);
+        for (int count : new int[]{1, 10, 100, 1000}) {
+            List<Obstacle> obstacles = randomObstacles(rnd, count, count < 10 ? 3.0 : 0.5);
+            ObstacleMap map = new ObstacleMap(obstacles);
+
+            for (int i = 0; i < 5000; i++) {
+                // Endpoints range past the obstacles, so many segments start outside the grid
+                double x1 = -25 + 50 * rnd.nextDouble(), y1 = -25 + 50 * rnd.nextDouble();
+                double x2 = -25 + 50 * rnd.nextDouble(), y2 = -25 + 50 * rnd.nextDouble();
+                assertMatchesBruteForce(obstacles, map, x1, y1, x2, y2);
+
+                // Axis-aligned and zero-length variants through the same points
+                assertMatchesBruteForce(obstacles, map, x1, y1, x1, y2);
+                assertMatchesBruteForce(obstacles, map, x1, y1, x2, y1);
+                assertMatchesBruteForce(obstacles, map, x1, y1, x1, y1);
+            }
+        }
+    }
+
+    @Test
+    public void gridLinesAndCellBoundariesMatchBruteForce() {
+        // Cell size 1 over integer-aligned obstacles: segments run along cell edges
+        List<Obstacle> obstacles = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            obstacles.add(new CircleObstacle(i + 0.5, (i * 3) % 10 + 0.5, 0.4));
+        }
+        ObstacleMap map = new ObstacleMap(obstacles, 1.0);
+
+        for (double v = -1; v <= 11; v += 0.5) {
+            assertMatchesBruteForce(obstacles, map, v, -5, v, 15);   // vertical
+            assertMatchesBruteForce(obstacles, map, -5, v, 15, v);   // horizontal
+            assertMatchesBruteForce(obstacles, map, v, 15, v, -5);   // reversed direction
+            assertMatchesBruteForce(obstacles, map, -5, -5 + v, 15, 15 + v); // diagonal
+        }
+    }
+
+    @Test
+    public void specificCases() {
+        List<Obstacle> obstacles = Arrays.asList(
+                new CircleObstacle(5, 0, 1),
+                new PolygonObstacle(new double[]{-6, -4, -4, -6}, new double[]{-1, -1, 1, 1}));
+        ObstacleMap map = new ObstacleMap(obstacles);
+
+        assertTrue(map.segmentCollides(-20, 0, 20, 0));      // both ends outside the grid
+        assertFalse(map.segmentCollides(-20, 5, 20, 5));     // passes above everything
+        assertTrue(map.segmentCollides(5, -10, 5, 10));      // vertical through the circle
+        assertTrue(map.segmentCollides(5, 0, 5, 0));         // zero length, inside the circle
+        assertFalse(map.segmentCollides(0, 0, 0, 0));        // zero length, in free space
+        assertTrue(map.segmentCollides(-5.5, 0, -4.5, 0));   // fully inside the polygon
+        assertFalse(map.segmentCollides(30, 30, 40, 40));    // entirely outside the grid
+    }
+
+    @Test
+    public void emptyMapNeverCollides() {
+        ObstacleMap map = new ObstacleMap(new ArrayList<>());
+        assertFalse(map.segmentCollides(-10, -10, 10, 10));
+        assertFalse(map.armCollides(new RobotArm2D(10, 8), 0.3, -0.2));
+    }
+
+    @Test
+    public void polygonEdgeCrossingAndContainment() {
+        // Concave "L" shape
+        PolygonObstacle l = new PolygonObstacle(new double[]{0, 4, 4, 1, 1, 0},
+                                                new double[]{0, 0, 1, 1, 4, 4});
+        assertTrue(l.containsPoint(0.5, 3));
+        assertTrue(l.containsPoint(3, 0.5));
+        assertFalse(l.containsPoint(3, 3));                  // in the notch
+
+        assertTrue(l.intersectsSegment(-1, 0.5, 5, 0.5));    // crosses two edges
+        assertTrue(l.intersectsSegment(0.2, 0.2, 0.8, 0.8)); // fully inside
+        assertTrue(l.intersectsSegment(4, -1, 4, 2));        // collinear with an edge
+        assertTrue(l.intersectsSegment(3, 3, 1, 1));         // ends on the inner corner
+        assertFalse(l.intersectsSegment(5, 1.5, 1.5, 5));    // cuts across the notch only
+        assertFalse(l.intersectsSegment(2, 2, 3, 3));        // inside the notch
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nanRadiusIsRejected() {
+        new CircleObstacle(0, 0, Double.NaN);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void infiniteVertexIsRejected() {
+        new PolygonObstacle(new double[]{0, 1, Double.POSITIVE_INFINITY}, new double[]{0, 0, 1});
+    }
+
+    @Test
+    public void everyClearPoseRanksAboveEveryCollidingPose() {
+        // Long arm: the largest clear error (240) exceeds a fixed penalty of 100
+        RobotArm2D arm = new RobotArm2D(60, 60);
+        ObstacleMap obstacles = new ObstacleMap(Arrays.asList(new CircleObstacle(30, 0, 5)));
+        GeneticAlgorithm ga = new GeneticAlgorithm(arm, 120, 0, obstacles);
+
+        double worstClear = Double.MAX_VALUE;
+        double bestColliding = 0;
+        int steps = 72;
+        for (int i = 0; i < steps; i++) {
+            for (int j = 0; j < steps; j++) {
+                Chromosome c = new Chromosome(-Math.PI + 2 * Math.PI * i / steps,
+                                              -Math.PI + 2 * Math.PI * j / steps);
+                double fitness = ga.computeFitness(c);
+                if (ga.isColliding(c)) {
+                    bestColliding = Math.max(bestColliding, fitness);
+                } else {
+                    worstClear = Math.min(worstClear, fitness);
+                }
+            }
+        }
+        assertTrue(bestColliding > 0);
+        assertTrue(worstClear < Double.MAX_VALUE);
+        assertTrue(worstClear > bestColliding);
+
+        // Exact hit through the obstacle vs. the farthest clear pose
+        Chromosome throughObstacle = new Chromosome(0, 0);
+        Chromosome farthestClear = new Chromosome(Math.PI, 0);
+        assertTrue(ga.isColliding(throughObstacle));
+        assertEquals(0.0, ga.getPositionError(throughObstacle), 1e-9);
+        assertTrue(ga.computeFitness(farthestClear) > ga.computeFitness(throughObstacle));
+    }
+}
@@ -0,0 +1,108 @@
+package com.csc4702;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class WorkspaceSweepTest {
+
+    // Header: magic, cols, rows (ints) + xMin, xMax, yMin, yMax (doubles)
+    private static final int BINARY_HEADER_BYTES = 3 * 4 + 4 * 8;
+    // Record: state byte, generations int, error float
+    private static final int BINARY_RECORD_BYTES = 1 + 4 + 4;
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    // Small grid and few generations keep each run fast
+    private static WorkspaceSweep smallSweep(int cols, int rows) {
+        WorkspaceSweep sweep = new WorkspaceSweep(new RobotArm2D(10.0, 8.0),
+                                                  -18, 18, -18, 18, cols, rows);
+        sweep.setMaxGenerations(5);
+        return sweep;
+    }
+
+    @Test
+    public void runEvaluatesEveryCell() {
+        WorkspaceSweep sweep = smallSweep(4, 3);
+        WorkspaceMap map = sweep.run(new ForkJoinPool(2));
+
+        assertEquals(12, sweep.getCellsDone());
+        assertEquals(12, map.getEvaluatedCount());
+        for (int row = 0; row < map.getRows(); row++) {
+            for (int col = 0; col < map.getCols(); col++) {
+                assertNotEquals(WorkspaceMap.NOT_EVALUATED, map.getState(col, row));
+                assertTrue(map.getGenerations(col, row) >= 1);
+                assertTrue(map.getGenerations(col, row) <= 5);
+                assertTrue(map.getError(col, row) >= 0);
+            }
+        }
+    }
+
+    @Test
+    public void cancelBeforeRunLeavesMapEmpty() {
+        WorkspaceSweep sweep = smallSweep(3, 3);
+        sweep.cancel();
+        WorkspaceMap map = sweep.run();
+
+        assertTrue(sweep.isCancelled());
+        assertEquals(0, sweep.getCellsDone());
+        assertEquals(0, map.getEvaluatedCount());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void secondRunIsRejected() {
+        WorkspaceSweep sweep = smallSweep(1, 1);
+        sweep.run();
+        sweep.run();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void oversizedGridIsRejected() {
+        new WorkspaceMap(0, 1, 0, 1, 50000, 50000);
+    }
+
+    @Test
+    public void csvHasHeaderAndOneLinePerCell() throws IOException {
+        WorkspaceMap map = smallSweep(3, 2).run();
+        File file = tmp.newFile("map.csv");
+        map.writeCsv(file.getPath());
+
+        List<String> lines = Files.readAllLines(file.toPath());
+        assertEquals("col,row,x,y,reached,collided,generations,error", lines.get(0));
+        assertEquals(1 + 6, lines.size());
+        for (String line : lines.subList(1, lines.size())) {
+            assertEquals(8, line.split(",").length);
+        }
+    }
+
+    @Test
+    public void binaryHasHeaderAndOneRecordPerCell() throws IOException {
+        WorkspaceMap map = smallSweep(3, 2).run();
+        File file = tmp.newFile("map.bin");
+        map.writeBinary(file.getPath());
+
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            assertEquals(0x57534D50, in.readInt());
+            assertEquals(3, in.readInt());
+            assertEquals(2, in.readInt());
+            assertEquals(-18.0, in.readDouble(), 0.0);
+            assertEquals(18.0, in.readDouble(), 0.0);
+            assertEquals(-18.0, in.readDouble(), 0.0);
+            assertEquals(18.0, in.readDouble(), 0.0);
+        }
+        assertEquals(BINARY_HEADER_BYTES + 6 * BINARY_RECORD_BYTES, file.length());
+    }
+}